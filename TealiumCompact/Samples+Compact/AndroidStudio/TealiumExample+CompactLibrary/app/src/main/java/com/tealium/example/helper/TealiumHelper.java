@@ -37,7 +37,7 @@ public final class TealiumHelper {
 			.setLibraryLogLevel(LogLevel.DEBUG));
 
 		SharedPreferences sp = Tealium.getGlobalCustomData();
-		sp.edit().putInt(KEY_TEAL_INIT_COUNT, sp.getInt(KEY_TEAL_INIT_COUNT, 0) + 1).commit();
+		sp.edit().putInt(KEY_TEAL_INIT_COUNT, sp.getInt(KEY_TEAL_INIT_COUNT, 0) + 1).apply();
 	}
 
 	public static void onResume(Activity activity) {
@@ -35,7 +35,7 @@ public final class TealiumHelper {
 			.setLibraryLogLevel(LogLevel.VERBOSE));
 		
 		SharedPreferences sp = Tealium.getGlobalCustomData();
-		sp.edit().putInt(KEY_TEAL_INIT_COUNT, sp.getInt(KEY_TEAL_INIT_COUNT, 0) + 1).commit();
+		sp.edit().putInt(KEY_TEAL_INIT_COUNT, sp.getInt(KEY_TEAL_INIT_COUNT, 0) + 1).apply();
 	}
 	
 	public static void onResume(Activity activity) {